@@ -2,7 +2,6 @@ package net.darkhax.tipsmod.impl.client;
 
 import net.darkhax.bookshelf.api.util.RenderHelper;
 import net.darkhax.tipsmod.api.TipsAPI;
-import net.darkhax.tipsmod.impl.Constants;
 import net.darkhax.tipsmod.impl.resources.TipManager;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.Screen;
@@ -10,36 +9,18 @@ import net.minecraft.util.Mth;
 
 public class TipRenderHandler {
 
-    private static long initTime = System.currentTimeMillis();
-    private static TipManager.TipHolder tipHolder;
+    private static final TipScheduler SCHEDULER = new TipScheduler();
 
-    private static void setTip(TipManager.TipHolder newTip) {
+    public static void tick() {
 
-        tipHolder = newTip;
-        initTime = System.currentTimeMillis();
+        SCHEDULER.tick();
     }
 
     public static void drawTip(GuiGraphics graphics, Screen parentScreen) {
 
-        if (tipHolder == null) {
-
-            setTip(TipsAPI.getRandomTip());
-        }
-
         if (TipsAPI.canRenderOnScreen(parentScreen)) {
 
-            final long currentTime = System.currentTimeMillis();
-            final int currentCycleTime = tipHolder.tip().getCycleTime();
-
-            if (currentTime - initTime > currentCycleTime) {
-
-                setTip(TipsAPI.getRandomTip());
-
-                if (tipHolder != null) {
-
-                    Constants.LOG.debug("Displaying tip {} on screen {}.", tipHolder.id(), parentScreen.getClass().getSimpleName());
-                }
-            }
+            final TipManager.TipHolder tipHolder = SCHEDULER.getTip(parentScreen);
 
             if (tipHolder != null) {
 
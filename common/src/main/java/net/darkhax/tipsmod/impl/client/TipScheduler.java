@@ -0,0 +1,165 @@
+package net.darkhax.tipsmod.impl.client;
+
+import net.darkhax.tipsmod.api.TipsAPI;
+import net.darkhax.tipsmod.impl.Constants;
+import net.darkhax.tipsmod.impl.TipsModCommon;
+import net.darkhax.tipsmod.impl.resources.TipManager;
+import net.minecraft.client.gui.screens.Screen;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks an independent tip rotation for each screen context. Deadlines are computed with a
+ * monotonic clock when a tip is assigned, and the earliest deadline across all slots is cached
+ * so that a single comparison is enough to know if any slot needs to rotate. The client tick
+ * drives rotation, and rendering falls back to the same check because some screens, such as
+ * world loading and saving screens, are rendered without the client ticking. Slots for screens
+ * that are no longer being rendered are dropped, so reopening a screen starts a fresh rotation.
+ */
+public class TipScheduler {
+
+    /**
+     * The amount of time a slot can go without being rendered before it is considered stale.
+     * This is measured with the same clock as the deadlines so it advances while the client is
+     * not ticking.
+     */
+    private static final long STALE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<Class<? extends Screen>, TipSlot> slots = new HashMap<>();
+    private long nextDeadline;
+    private boolean hasDeadline;
+    private int tipGeneration = -1;
+
+    /**
+     * Gets the tip currently assigned to the context of the given screen. A new rotation is
+     * started when the screen context is first seen or has not been rendered recently.
+     *
+     * @param screen The screen to get a tip for.
+     * @return The tip currently assigned to the screen context.
+     */
+    public TipManager.TipHolder getTip(Screen screen) {
+
+        final int generation = TipsModCommon.TIP_MANAGER.getGeneration();
+
+        if (generation != this.tipGeneration) {
+
+            this.reset();
+            this.tipGeneration = generation;
+        }
+
+        final long now = System.nanoTime();
+        TipSlot slot = this.slots.get(screen.getClass());
+
+        if (slot == null) {
+
+            slot = new TipSlot(screen.getClass());
+            this.slots.put(screen.getClass(), slot);
+            this.assignTip(slot, now);
+        }
+
+        else if (now - slot.lastServed > STALE_NANOS) {
+
+            this.assignTip(slot, now);
+        }
+
+        slot.lastServed = now;
+
+        if (now - this.nextDeadline >= 0) {
+
+            this.update(now);
+        }
+
+        return slot.tip;
+    }
+
+    /**
+     * Rotates every slot whose deadline has passed and drops slots whose screen is no longer
+     * being rendered. This should be invoked once per client tick.
+     */
+    public void tick() {
+
+        if (this.hasDeadline) {
+
+            final long now = System.nanoTime();
+
+            if (now - this.nextDeadline >= 0) {
+
+                this.update(now);
+            }
+        }
+    }
+
+    /**
+     * Drops all slots. This is done automatically when tips are reloaded so that tips which
+     * are no longer loaded or can no longer be displayed are not kept on screen.
+     */
+    public void reset() {
+
+        this.slots.clear();
+        this.hasDeadline = false;
+    }
+
+    private void update(long now) {
+
+        this.hasDeadline = false;
+        final Iterator<TipSlot> iterator = this.slots.values().iterator();
+
+        while (iterator.hasNext()) {
+
+            final TipSlot slot = iterator.next();
+
+            if (now - slot.lastServed > STALE_NANOS) {
+
+                iterator.remove();
+            }
+
+            else if (now - slot.deadline >= 0) {
+
+                this.assignTip(slot, now);
+            }
+
+            else {
+
+                this.offerDeadline(slot.deadline);
+            }
+        }
+    }
+
+    private void assignTip(TipSlot slot, long now) {
+
+        slot.setTip(TipsAPI.getRandomTip(), now);
+        this.offerDeadline(slot.deadline);
+        Constants.LOG.debug("Displaying tip {} on screen {}.", slot.tip.id(), slot.screen.getSimpleName());
+    }
+
+    private void offerDeadline(long deadline) {
+
+        if (!this.hasDeadline || deadline - this.nextDeadline < 0) {
+
+            this.nextDeadline = deadline;
+            this.hasDeadline = true;
+        }
+    }
+
+    private static class TipSlot {
+
+        private final Class<? extends Screen> screen;
+        private TipManager.TipHolder tip;
+        private long deadline;
+        private long lastServed;
+
+        private TipSlot(Class<? extends Screen> screen) {
+
+            this.screen = screen;
+        }
+
+        private void setTip(TipManager.TipHolder newTip, long now) {
+
+            this.tip = newTip;
+            this.deadline = now + TimeUnit.MILLISECONDS.toNanos(newTip.tip().getCycleTime());
+        }
+    }
+}
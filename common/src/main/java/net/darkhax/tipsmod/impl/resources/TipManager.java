@@ -23,6 +23,7 @@ public class TipManager extends SimpleJsonResourceReloadListener {
     private final Map<ResourceLocation, TipHolder> loadedTips = new HashMap();
     private final List<TipHolder> randomAccess = new ArrayList<>();
     private final List<TipHolder> immutableAccess = Collections.unmodifiableList(randomAccess);
+    private int generation;
 
     public TipManager() {
 
@@ -34,6 +35,11 @@ public class TipManager extends SimpleJsonResourceReloadListener {
         return this.immutableAccess;
     }
 
+    public int getGeneration() {
+
+        return this.generation;
+    }
+
     @Override
     protected void apply(Map<ResourceLocation, JsonElement> map, ResourceManager resourceManager, ProfilerFiller profilerFiller) {
 
@@ -69,6 +75,7 @@ public class TipManager extends SimpleJsonResourceReloadListener {
         Constants.LOG.info("Loaded {} tips. Took {}ms.", this.loadedTips.size(), (double) (System.nanoTime() - startTime) / 1000000d);
         Constants.LOG.info("The following screens have been registered to the tips mod.");
         TipsAPI.getTipsScreens().forEach(screen -> Constants.LOG.info("Screen: '{}' Enabled: '{}'", screen.getCanonicalName(), TipsAPI.canRenderOnScreen(screen)));
+        this.generation++;
     }
 
     public static record TipHolder(ResourceLocation id, ITip tip) {
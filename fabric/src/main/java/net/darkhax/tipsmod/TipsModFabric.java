@@ -1,7 +1,9 @@
 package net.darkhax.tipsmod;
 
 import net.darkhax.tipsmod.impl.TipsModCommon;
+import net.darkhax.tipsmod.impl.client.TipRenderHandler;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 
 public class TipsModFabric implements ClientModInitializer {
 
@@ -9,5 +11,6 @@ public class TipsModFabric implements ClientModInitializer {
     public void onInitializeClient() {
 
         TipsModCommon.init();
+        ClientTickEvents.END_CLIENT_TICK.register(client -> TipRenderHandler.tick());
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import net.darkhax.tipsmod.impl.TipsModCommon;
 import net.darkhax.tipsmod.impl.client.TipRenderHandler;
 import net.minecraftforge.client.event.ScreenEvent;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.fml.common.Mod;
 
 @Mod(Constants.MOD_ID)
@@ -14,6 +15,15 @@ public class TipsModForge {
 
         TipsModCommon.init();
         MinecraftForge.EVENT_BUS.addListener(TipsModForge::drawScreen);
+        MinecraftForge.EVENT_BUS.addListener(TipsModForge::clientTick);
+    }
+
+    private static void clientTick(TickEvent.ClientTickEvent event) {
+
+        if (event.phase == TickEvent.Phase.END) {
+
+            TipRenderHandler.tick();
+        }
     }
 
     private static void drawScreen(ScreenEvent.Render.Post event) {
@@ -4,6 +4,7 @@ import net.darkhax.tipsmod.impl.TipsModCommon;
 import net.darkhax.tipsmod.impl.client.TipRenderHandler;
 import net.neoforged.neoforge.client.event.ScreenEvent;
 import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.TickEvent;
 
 public class TipsModNeoForgeClient {
 
@@ -11,6 +12,15 @@ public class TipsModNeoForgeClient {
 
         TipsModCommon.init();
         NeoForge.EVENT_BUS.addListener(TipsModNeoForgeClient::drawScreen);
+        NeoForge.EVENT_BUS.addListener(TipsModNeoForgeClient::clientTick);
+    }
+
+    private static void clientTick(TickEvent.ClientTickEvent event) {
+
+        if (event.phase == TickEvent.Phase.END) {
+
+            TipRenderHandler.tick();
+        }
     }
 
     private static void drawScreen(ScreenEvent.Render.Post event) {